@@ -0,0 +1,80 @@
+package com.navercorp.restapi.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AimdLimiter {
+
+    // Additive increase, multiplicative decrease of allowed in-flight requests
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile int limit;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long timeoutMillis) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("BackoffRatio must be between 0 and 1");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= this.limit) {
+                reject();
+                return false;
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Counts a request turned away without trying this limiter
+    public void reject() {
+        this.rejected.incrementAndGet();
+    }
+
+    public void release(long latencyNanos, boolean dropped) {
+        int current = this.inFlight.getAndDecrement();
+        synchronized (this) {
+            if (dropped || latencyNanos > this.timeoutNanos) {
+                // Slow or failed: back off quickly
+                this.limit = Math.max(this.minLimit, (int) (this.limit * this.backoffRatio));
+            } else if (current * 2 >= this.limit) {
+                // Grow only while the limit is actually being used
+                this.limit = Math.min(this.maxLimit, this.limit + 1);
+            }
+        }
+    }
+
+    public boolean isSaturated() {
+        return this.inFlight.get() >= this.limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
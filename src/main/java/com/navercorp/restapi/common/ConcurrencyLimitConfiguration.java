@@ -0,0 +1,54 @@
+package com.navercorp.restapi.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+
+    public ConcurrencyLimitConfiguration(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor() {
+        return new ConcurrencyLimitInterceptor(properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor())
+                .addPathPatterns("/api/events", "/api/events/**");
+    }
+
+    // Exposed through /actuator/metrics (see management.endpoints.web.exposure.include)
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(ConcurrencyLimitInterceptor concurrencyLimitInterceptor) {
+        return registry -> {
+            bind(registry, "read", concurrencyLimitInterceptor.getReadLimiter());
+            bind(registry, "write", concurrencyLimitInterceptor.getWriteLimiter());
+        };
+    }
+
+    private void bind(MeterRegistry registry, String type, AimdLimiter limiter) {
+        Gauge.builder("events.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("events.concurrency.inflight", limiter, AimdLimiter::getInFlight)
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("events.concurrency.rejected", limiter, AimdLimiter::getRejected)
+                .tag("type", type)
+                .register(registry);
+    }
+}
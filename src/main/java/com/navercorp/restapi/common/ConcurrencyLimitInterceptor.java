@@ -0,0 +1,102 @@
+package com.navercorp.restapi.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    // Latency sample is the handler time only: ended by ConcurrencyLimitLatencyAdvice when body
+    // writing starts (or at completion for responses without a body).
+
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String HANDLED_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".handled";
+
+    private final AimdLimiter readLimiter;
+    private final AimdLimiter writeLimiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimitProperties properties) {
+        this.readLimiter = newLimiter(properties.getRead(), properties);
+        this.writeLimiter = newLimiter(properties.getWrite(), properties);
+        this.retryAfterSeconds = String.valueOf(properties.getRetryAfterSeconds());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AimdLimiter limiter;
+        if (isWrite(request, handler)) {
+            // Reads have priority: shed writes while reads are at their limit
+            if (this.readLimiter.isSaturated()) {
+                this.writeLimiter.reject();
+                return reject(response);
+            }
+            if (!this.writeLimiter.tryAcquire()) {
+                return reject(response);
+            }
+            limiter = this.writeLimiter;
+        } else {
+            if (!this.readLimiter.tryAcquire()) {
+                return reject(response);
+            }
+            limiter = this.readLimiter;
+        }
+
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AimdLimiter limiter = (AimdLimiter) request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+
+        markHandled(request);
+        long latency = (long) request.getAttribute(HANDLED_ATTRIBUTE) - (long) request.getAttribute(START_ATTRIBUTE);
+        boolean dropped = ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        limiter.release(latency, dropped);
+    }
+
+    public AimdLimiter getReadLimiter() {
+        return readLimiter;
+    }
+
+    public AimdLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+
+    static void markHandled(HttpServletRequest request) {
+        if (request.getAttribute(START_ATTRIBUTE) != null && request.getAttribute(HANDLED_ATTRIBUTE) == null) {
+            request.setAttribute(HANDLED_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return false;
+        }
+        // e.g. POST /api/events/multi-get is a read with a body
+        return !(handler instanceof HandlerMethod && ((HandlerMethod) handler).hasMethodAnnotation(ReadRequest.class));
+    }
+
+    private boolean reject(HttpServletResponse response) {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfterSeconds);
+        return false;
+    }
+
+    private static AimdLimiter newLimiter(ConcurrencyLimitProperties.Limit limit, ConcurrencyLimitProperties properties) {
+        return new AimdLimiter(limit.getInitialLimit(), 1, limit.getMaxLimit(),
+                properties.getBackoffRatio(), properties.getTimeoutMillis());
+    }
+}
@@ -0,0 +1,32 @@
+package com.navercorp.restapi.common;
+
+import com.navercorp.restapi.events.EventController;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice(assignableTypes = EventController.class)
+public class ConcurrencyLimitLatencyAdvice implements ResponseBodyAdvice<Object> {
+
+    // Ends the latency sample when body writing starts, so slow clients don't shrink the limit
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest) {
+            ConcurrencyLimitInterceptor.markHandled(((ServletServerHttpRequest) request).getServletRequest());
+        }
+        return body;
+    }
+}
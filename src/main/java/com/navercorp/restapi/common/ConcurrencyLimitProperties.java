@@ -0,0 +1,25 @@
+package com.navercorp.restapi.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties("events.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private Limit read = new Limit(20, 200);
+    private Limit write = new Limit(10, 50);
+    private double backoffRatio = 0.9;
+    private long timeoutMillis = 1000; // Slower handler time than this shrinks the limit
+    private int retryAfterSeconds = 1;
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Limit {
+        private int initialLimit;
+        private int maxLimit;
+    }
+}
@@ -1,16 +1,13 @@
 package com.navercorp.restapi.common;
 
-import com.navercorp.restapi.index.IndexController;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.validation.Errors;
 
-import static org.springframework.hateoas.server.mvc.ControllerLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.ControllerLinkBuilder.methodOn;
-
 public class ErrorsResource extends EntityModel<Errors> {
-    public ErrorsResource(Errors content, Link... links) {
+    public ErrorsResource(Errors content, Link indexLink, Link... links) {
         super(content, links);
-        add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+        // Index link comes from the caller's per-request links
+        add(indexLink);
     }
 }
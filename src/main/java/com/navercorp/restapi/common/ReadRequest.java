@@ -0,0 +1,12 @@
+package com.navercorp.restapi.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a non-GET handler that only reads, so it is limited as a read
+@Target(value = ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadRequest {
+}
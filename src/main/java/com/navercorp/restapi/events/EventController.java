@@ -1,28 +1,33 @@
 package com.navercorp.restapi.events;
 
 import com.navercorp.restapi.common.ErrorsResource;
+import com.navercorp.restapi.common.ReadRequest;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.server.mvc.ControllerLinkBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.net.URI;
-import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.ControllerLinkBuilder.linkTo;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Controller
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+@RequestMapping(value = EventController.EVENTS_PATH, produces = MediaTypes.HAL_JSON_VALUE)
 public class EventController {
 
+    public static final String EVENTS_PATH = "/api/events";
+
+    // Upper bound of ids for one multi-get, keeps the IN query far below DB bind parameter limits
+    static final int MAX_MULTI_GET_IDS = 1000;
+
     private final EventRepository eventRepository;
 
     private final ModelMapper modelMapper; // From @bean in DemoApplication.class
@@ -51,14 +56,14 @@ public class EventController {
         event.update(); // 비즈니스 로직이니 Service Layer로 넘길 수도 있음.
 
         Event newEvent = this.eventRepository.save(event);
-        ControllerLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+        EventLinks eventLinks = EventLinks.fromCurrentRequest();
+        URI createdUri = eventLinks.toUri(newEvent.getId());
 
         // TODO: Move below codes to EventResource
-        EventResource eventResource = new EventResource(event);
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(selfLinkBuilder.withRel("update-event"));
-        eventResource.add(new Link("/docs/index.html#resources-events-create").withRel("profile"));
+        EventResource eventResource = new EventResource(event, eventLinks);
+        eventResource.add(eventLinks.events("query-events"));
+        eventResource.add(eventLinks.event(newEvent.getId(), "update-event"));
+        eventResource.add(EventLinks.CREATE_PROFILE);
         return ResponseEntity.created(createdUri).body(eventResource);
     }
 
@@ -67,8 +72,9 @@ public class EventController {
         // Add links of pages
         Page<Event> page = this.eventRepository.findAll(pageable);
         // Return with link of each Event
-        var pagedResources = assembler.toModel(page, e -> new EventResource(e));
-        pagedResources.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
+        EventLinks eventLinks = EventLinks.fromCurrentRequest();
+        var pagedResources = assembler.toModel(page, e -> new EventResource(e, eventLinks));
+        pagedResources.add(EventLinks.LIST_PROFILE);
         return ResponseEntity.ok(pagedResources);
     }
 
@@ -81,13 +87,56 @@ public class EventController {
         }
 
         Event event = optionalEvent.get();
-        EventResource eventResource = new EventResource(event);
-        eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
+        EventResource eventResource = new EventResource(event, EventLinks.fromCurrentRequest());
+        eventResource.add(EventLinks.GET_PROFILE);
         return ResponseEntity.ok(eventResource);
 
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity getEvents(@RequestParam List<Integer> ids) {
+        return multiGet(ids);
+    }
+
+    @ReadRequest
+    @PostMapping("/multi-get")
+    public ResponseEntity getEventsByBody(@RequestBody List<Integer> ids) {
+        return multiGet(ids);
+    }
+
+    private ResponseEntity multiGet(List<Integer> ids) {
+        if (ids.size() > MAX_MULTI_GET_IDS) {
+            Errors errors = new BeanPropertyBindingResult(ids, "ids");
+            errors.reject("tooManyIds", "Number of ids must not exceed " + MAX_MULTI_GET_IDS);
+            return badRequest(errors);
+        }
+
+        // Drop duplicated ids but keep requested order
+        Set<Integer> requestedIds = new LinkedHashSet<>(ids);
+        requestedIds.remove(null);
+
+        // One IN query for all ids
+        Map<Integer, Event> eventsById = this.eventRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        EventLinks eventLinks = EventLinks.fromCurrentRequest();
+        List<EventResource> eventResources = new ArrayList<>();
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : requestedIds) {
+            Event event = eventsById.get(id);
+            if (event == null) {
+                missingIds.add(id);
+            } else {
+                eventResources.add(new EventResource(event, eventLinks));
+            }
+        }
+
+        EventsResource eventsResource = new EventsResource(eventResources, missingIds);
+        eventsResource.add(EventLinks.MULTI_GET_PROFILE);
+        return ResponseEntity.ok(eventsResource);
+    }
+
     private ResponseEntity badRequest(Errors errors) {
-        return ResponseEntity.badRequest().body(new ErrorsResource(errors));
+        return ResponseEntity.badRequest().body(new ErrorsResource(errors, EventLinks.fromCurrentRequest().index()));
     }
 }
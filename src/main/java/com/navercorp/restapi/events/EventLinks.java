@@ -0,0 +1,55 @@
+package com.navercorp.restapi.events;
+
+import com.navercorp.restapi.index.IndexController;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+
+import java.net.URI;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+public class EventLinks {
+
+    // Profile links do not depend on the request
+    public static final Link CREATE_PROFILE = new Link("/docs/index.html#resources-events-create").withRel("profile");
+    public static final Link LIST_PROFILE = new Link("/docs/index.html#resources-events-list").withRel("profile");
+    public static final Link GET_PROFILE = new Link("/docs/index.html#resources-events-get").withRel("profile");
+    public static final Link MULTI_GET_PROFILE = new Link("/docs/index.html#resources-events-multi-get").withRel("profile");
+
+    // Base uris, resolved once against the current request (host, forwarded headers)
+    private final String rootUri;
+    private final String eventsUri;
+
+    private EventLinks(String eventsUri) {
+        this.rootUri = eventsUri.substring(0, eventsUri.length() - EventController.EVENTS_PATH.length());
+        this.eventsUri = eventsUri;
+    }
+
+    public static EventLinks fromCurrentRequest() {
+        return new EventLinks(linkTo(EventController.class).toUri().toString());
+    }
+
+    public Link index() {
+        return new Link(rootUri + IndexController.INDEX_PATH, "index");
+    }
+
+    public Link events(String rel) {
+        return new Link(eventsUri, rel);
+    }
+
+    public Link event(Integer id, String rel) {
+        return new Link(eventUri(id), rel);
+    }
+
+    public Link self(Integer id) {
+        return event(id, IanaLinkRelations.SELF.value());
+    }
+
+    public String eventUri(Integer id) {
+        return eventsUri + "/" + id;
+    }
+
+    public URI toUri(Integer id) {
+        return URI.create(eventUri(id));
+    }
+}
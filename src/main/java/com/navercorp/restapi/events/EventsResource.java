@@ -0,0 +1,21 @@
+package com.navercorp.restapi.events;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+
+import java.util.List;
+
+public class EventsResource extends CollectionModel<EventResource> {
+
+    // Requested ids which have no matching event
+    private final List<Integer> missingIds;
+
+    public EventsResource(Iterable<EventResource> content, List<Integer> missingIds, Link... links) {
+        super(content, links);
+        this.missingIds = missingIds;
+    }
+
+    public List<Integer> getMissingIds() {
+        return missingIds;
+    }
+}
@@ -1,19 +1,19 @@
 package com.navercorp.restapi.index;
 
-import com.navercorp.restapi.events.EventController;
+import com.navercorp.restapi.events.EventLinks;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.ControllerLinkBuilder.linkTo;
-
 @RestController
 public class IndexController {
 
-    @GetMapping("/api")
+    public static final String INDEX_PATH = "/api";
+
+    @GetMapping(INDEX_PATH)
     public RepresentationModel index() {
         var index = new RepresentationModel();
-        index.add(linkTo(EventController.class).withRel("events"));
+        index.add(EventLinks.fromCurrentRequest().events("events"));
         return index;
 
     }
@@ -0,0 +1,75 @@
+package com.navercorp.restapi.common;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(2000);
+
+    @Test
+    @TestDescription("제한을 넘는 요청은 거절")
+    public void rejectOverLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, 1000);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.isSaturated()).isTrue();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+
+        limiter.reject();
+        assertThat(limiter.getRejected()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("빠른 응답이면 제한을 1씩 늘림")
+    public void increaseOnFastResponse() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 3, 0.5, 1000);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("제한을 절반도 쓰지 않으면 빠른 응답이어도 제한을 늘리지 않음")
+    public void keepLimitWhenUnderUsed() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, 0.5, 1000);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    @TestDescription("느린 응답이나 실패면 제한을 비율만큼 줄임")
+    public void decreaseOnSlowOrDroppedResponse() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 0.5, 1000);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+}
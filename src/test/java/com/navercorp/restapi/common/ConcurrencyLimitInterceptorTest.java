@@ -0,0 +1,179 @@
+package com.navercorp.restapi.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "events.concurrency.read.initial-limit=1",
+        "events.concurrency.read.max-limit=1",
+        "events.concurrency.write.initial-limit=1",
+        "events.concurrency.write.max-limit=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test") // Use application-test.properties with application.properties
+public class ConcurrencyLimitInterceptorTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Test
+    @TestDescription("읽기 제한을 넘으면 503과 Retry-After 응답")
+    public void read_Rejected_When_Saturated() throws Exception {
+        AimdLimiter readLimiter = this.concurrencyLimitInterceptor.getReadLimiter();
+        readLimiter.tryAcquire();
+        try {
+            this.mockMvc.perform(get("/api/events"))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            readLimiter.release(0, false);
+        }
+
+        this.mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk());
+        assertThat(readLimiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    @TestDescription("읽기 제한이 찬 동안에는 쓰기 요청을 먼저 거절")
+    public void write_Shed_While_Reads_Saturated() throws Exception {
+        AimdLimiter readLimiter = this.concurrencyLimitInterceptor.getReadLimiter();
+        AimdLimiter writeLimiter = this.concurrencyLimitInterceptor.getWriteLimiter();
+        long rejectedWrites = writeLimiter.getRejected();
+        readLimiter.tryAcquire();
+        try {
+            this.mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content("{}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+            assertThat(writeLimiter.getInFlight()).isEqualTo(0);
+            assertThat(writeLimiter.getRejected()).isEqualTo(rejectedWrites + 1);
+        } finally {
+            readLimiter.release(0, false);
+        }
+    }
+
+    @Test
+    @TestDescription("multi-get POST 요청은 읽기로 분류")
+    public void multiGet_Counted_As_Read() throws Exception {
+        String ids = this.objectMapper.writeValueAsString(List.of(1, 2));
+
+        // Writes at their limit do not block multi-get
+        AimdLimiter writeLimiter = this.concurrencyLimitInterceptor.getWriteLimiter();
+        writeLimiter.tryAcquire();
+        try {
+            this.mockMvc.perform(post("/api/events/multi-get")
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(ids))
+                    .andExpect(status().isOk());
+            // Trailing slash reaches the same handler, so it is still a read
+            this.mockMvc.perform(post("/api/events/multi-get/")
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(ids))
+                    .andExpect(status().isOk());
+        } finally {
+            writeLimiter.release(0, false);
+        }
+
+        // Reads at their limit do
+        AimdLimiter readLimiter = this.concurrencyLimitInterceptor.getReadLimiter();
+        readLimiter.tryAcquire();
+        try {
+            this.mockMvc.perform(post("/api/events/multi-get")
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .content(ids))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            readLimiter.release(0, false);
+        }
+    }
+
+    @Test
+    @TestDescription("현재 제한과 거절 수를 메트릭으로 조회")
+    public void metrics() throws Exception {
+        AimdLimiter readLimiter = this.concurrencyLimitInterceptor.getReadLimiter();
+        readLimiter.tryAcquire();
+        try {
+            this.mockMvc.perform(get("/api/events"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            readLimiter.release(0, false);
+        }
+
+        this.mockMvc.perform(get("/actuator/metrics/events.concurrency.limit")
+                    .param("tag", "type:read"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("measurements[0].value").value(1.0));
+        this.mockMvc.perform(get("/actuator/metrics/events.concurrency.rejected")
+                    .param("tag", "type:read"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("measurements[0].value").value(Matchers.greaterThanOrEqualTo(1.0)));
+    }
+
+    @Test
+    @TestDescription("핸들러가 예외를 던져도 제한을 반환하고 줄임")
+    public void release_When_Handler_Throws() {
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(new ConcurrencyLimitProperties());
+        AimdLimiter readLimiter = interceptor.getReadLimiter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, null)).isTrue();
+        assertThat(readLimiter.getInFlight()).isEqualTo(1);
+
+        interceptor.afterCompletion(request, response, null, new IllegalStateException("DB is down"));
+
+        assertThat(readLimiter.getInFlight()).isEqualTo(0);
+        assertThat(readLimiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    @TestDescription("응답 본문 쓰기 시간은 지연 시간에 포함하지 않음")
+    public void latency_Excludes_Body_Writing() throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setTimeoutMillis(50);
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(properties);
+        AimdLimiter readLimiter = interceptor.getReadLimiter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        new ConcurrencyLimitLatencyAdvice().beforeBodyWrite(null, null, null, null, new ServletServerHttpRequest(request), null);
+        Thread.sleep(100); // Slow client reading the body
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertThat(readLimiter.getLimit()).isEqualTo(20);
+    }
+
+}
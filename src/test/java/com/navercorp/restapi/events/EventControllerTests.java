@@ -3,7 +3,9 @@ package com.navercorp.restapi.events;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.navercorp.restapi.common.RestDocsConfiguration;
 import com.navercorp.restapi.common.TestDescription;
+import com.zaxxer.hikari.HikariDataSource;
 import org.hamcrest.Matchers;
+import org.hibernate.LazyInitializationException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,16 +13,30 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -35,7 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest // Mock을 대신하여 통합테스트, 모든 bean 등록
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, EventControllerTests.ConnectionProbe.class, EventControllerTests.LazyEventController.class})
 @ActiveProfiles("test") // Use application-test.properties with application.properties
 public class EventControllerTests {
 
@@ -48,6 +64,9 @@ public class EventControllerTests {
     @Autowired
     EventRepository eventRepository;
 
+    @Autowired
+    ConnectionProbe connectionProbe;
+
     @Test
     @TestDescription("정상 이벤트 요청")
     public void createEvent() throws Exception {
@@ -192,7 +211,7 @@ public class EventControllerTests {
                 .andExpect(jsonPath("content[0].objectName").exists())
                 .andExpect(jsonPath("content[0].defaultMessage").exists())
                 .andExpect(jsonPath("content[0].code").exists())
-                .andExpect(jsonPath("_links.index").exists())
+                .andExpect(jsonPath("_links.index.href").value("http://localhost/api"))
         ;
     }
 
@@ -215,6 +234,8 @@ public class EventControllerTests {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("page").exists())
                 .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href")
+                        .value(Matchers.startsWith("http://localhost/api/events/")))
                 .andExpect(jsonPath("_links.self").exists())
                 .andExpect(jsonPath("_links.profile").exists())
                 .andDo(document("query-events"))
@@ -247,6 +268,103 @@ public class EventControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @TestDescription("여러 이벤트를 id 목록으로 한번에 조회하기")
+    public void getEvents() throws Exception {
+        // Given
+        Event first = this.generateEvent(200);
+        Event second = this.generateEvent(201);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events")
+                    .param("ids", second.getId() + "," + first.getId() + ",111111"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(second.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(first.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("missingIds[0]").value(111111))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("multi-get-events"))
+        ;
+    }
+
+    @Test
+    @TestDescription("본문의 id 목록으로 여러 이벤트 조회하기")
+    public void getEvents_Body() throws Exception {
+        // Given
+        Event first = this.generateEvent(202);
+        Event second = this.generateEvent(203);
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/multi-get")
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .content(this.objectMapper.writeValueAsString(List.of(first.getId(), second.getId()))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(first.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(second.getId()))
+                .andExpect(jsonPath("missingIds").isEmpty())
+                .andDo(document("multi-get-events-body"))
+        ;
+    }
+
+    @Test
+    @TestDescription("허용 개수를 넘는 id 목록으로 조회하면 에러 발생 테스트")
+    public void getEvents_Bad_Request_Too_Many_Ids() throws Exception {
+        List<Integer> ids = IntStream.rangeClosed(1, EventController.MAX_MULTI_GET_IDS + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        this.mockMvc.perform(post("/api/events/multi-get")
+                    .contentType(MediaType.APPLICATION_JSON_UTF8)
+                    .content(this.objectMapper.writeValueAsString(ids)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("tooManyIds"))
+                .andExpect(jsonPath("_links.index").exists())
+        ;
+    }
+
+    @Test
+    @TestDescription("이벤트 조회 응답을 렌더링하기 전에 DB 커넥션이 반환되는지 확인")
+    public void getEvent_Connection_Released_Before_Rendering() throws Exception {
+        // Given
+        Event event = this.generateEvent(300);
+        this.connectionProbe.reset();
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+        assertThat(this.connectionProbe.getActiveConnectionsBeforeRendering()).isEqualTo(0);
+    }
+
+    @Test
+    @TestDescription("이벤트 목록 응답을 렌더링하기 전에 DB 커넥션이 반환되는지 확인")
+    public void queryEvents_Connection_Released_Before_Rendering() throws Exception {
+        // Given
+        IntStream.range(0, 3).forEach(this::generateEvent);
+        this.connectionProbe.reset();
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk());
+        assertThat(this.connectionProbe.getActiveConnectionsBeforeRendering()).isEqualTo(0);
+    }
+
+    @Test
+    @TestDescription("응답 렌더링 중에 지연 로딩하면 예외 발생 테스트")
+    public void lazyLoading_While_Rendering_Fails() throws Exception {
+        // Given
+        Event event = this.generateEvent(301);
+
+        // When & Then
+        MvcResult result = this.mockMvc.perform(get("/test/lazy-events/{id}", event.getId()))
+                .andExpect(status().isInternalServerError())
+                .andReturn();
+        assertThat(NestedExceptionUtils.getMostSpecificCause(result.getResolvedException()))
+                .isInstanceOf(LazyInitializationException.class);
+    }
 
     private Event generateEvent(int index) {
         Event event = Event.builder()
@@ -258,4 +376,67 @@ public class EventControllerTests {
         return this.eventRepository.save(event);
     }
 
+    // Records active pool connections right before the response body is written
+    @ControllerAdvice
+    static class ConnectionProbe implements ResponseBodyAdvice<Object> {
+
+        private final HikariDataSource dataSource;
+
+        private volatile Integer activeConnectionsBeforeRendering;
+
+        ConnectionProbe(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request, ServerHttpResponse response) {
+            this.activeConnectionsBeforeRendering = this.dataSource.getHikariPoolMXBean().getActiveConnections();
+            return body;
+        }
+
+        void reset() {
+            this.activeConnectionsBeforeRendering = null;
+        }
+
+        Integer getActiveConnectionsBeforeRendering() {
+            return activeConnectionsBeforeRendering;
+        }
+    }
+
+    // Renders an uninitialized entity reference, which only works while a session is open
+    @RestController
+    static class LazyEventController {
+
+        private final EventRepository eventRepository;
+
+        LazyEventController(EventRepository eventRepository) {
+            this.eventRepository = eventRepository;
+        }
+
+        @GetMapping("/test/lazy-events/{id}")
+        public LazyEventView getLazyEvent(@PathVariable Integer id) {
+            return new LazyEventView(this.eventRepository.getOne(id));
+        }
+    }
+
+    static class LazyEventView {
+
+        private final Event event;
+
+        LazyEventView(Event event) {
+            this.event = event;
+        }
+
+        public String getName() {
+            return event.getName();
+        }
+    }
+
 }
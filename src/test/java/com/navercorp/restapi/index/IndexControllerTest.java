@@ -27,6 +27,7 @@ public class IndexControllerTest {
         this.mockMvc.perform(get("/api"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("_links.events").exists())
+                .andExpect(jsonPath("_links.events.href").value("http://localhost/api/events"))
         ;
     }
 